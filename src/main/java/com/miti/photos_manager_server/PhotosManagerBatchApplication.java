@@ -0,0 +1,29 @@
+package com.miti.photos_manager_server;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Headless entry point: runs a single scan without the servlet container and exits.
+ *
+ * @author Dumitru Săndulache (sandulachedumitru@hotmail.com)
+ */
+
+public class PhotosManagerBatchApplication {
+
+	public static void main(String[] args) {
+		System.exit(SpringApplication.exit(run(args)));
+	}
+
+	static ConfigurableApplicationContext run(String... args) {
+		return new SpringApplicationBuilder(PhotosManagerServerApplication.class)
+				.web(WebApplicationType.NONE)
+				.bannerMode(Banner.Mode.OFF)
+				.properties("media-manager.batch.enabled=true")
+				.run(args);
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.miti.photos_manager_server.batch;
+
+import com.miti.photos_manager_server.config.MediaManagerConfig;
+import com.miti.photos_manager_server.model.FileOperation;
+import com.miti.photos_manager_server.model.ScanRequestDto;
+import com.miti.photos_manager_server.service.FileScannerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnNotWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Runs one scan from the command line when started through PhotosManagerBatchApplication.
+ * Options mirror {@link ScanRequestDto}; --scan-directory is required, the others fall back
+ * to media-manager.properties.
+ * <pre>
+ * --scan-directory=D:/photos --operation=MOVE --image-enabled=true --audio-enabled=false
+ * --container-enabled=false --archive-enabled=false
+ * </pre>
+ *
+ * @author Dumitru Săndulache (sandulachedumitru@hotmail.com)
+ */
+
+@Component
+@ConditionalOnNotWebApplication
+@ConditionalOnProperty("media-manager.batch.enabled")
+@RequiredArgsConstructor
+@Slf4j
+public class FileScannerBatchRunner implements ApplicationRunner, ExitCodeGenerator {
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_SCAN_FAILED = 1;
+    public static final int EXIT_INVALID_ARGUMENTS = 2;
+
+    private static final Set<String> SUPPORTED_OPTIONS = Set.of(
+            "scan-directory", "operation", "image-enabled", "audio-enabled", "container-enabled", "archive-enabled");
+    // consumed by Spring Boot itself, e.g. --logging.level.root=WARN
+    private static final List<String> SPRING_OPTION_PREFIXES = List.of("spring.", "logging.");
+
+    private final MediaManagerConfig config;
+    private final FileScannerService fileScannerService;
+    private int exitCode = EXIT_OK;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        ScanRequestDto requestDto;
+        try {
+            requestDto = toScanRequest(args);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid arguments: {}", e.getMessage());
+            exitCode = EXIT_INVALID_ARGUMENTS;
+            return;
+        }
+
+        try {
+            fileScannerService.scanAndOrganizeFiles(requestDto);
+        } catch (IOException e) {
+            log.error("Scan failed: ", e);
+            exitCode = EXIT_SCAN_FAILED;
+            return;
+        }
+
+        Map<String, List<String>> processedFiles = fileScannerService.getProcessedFiles();
+        long failedFiles = fileScannerService.getFailedFilesCount();
+        log.info("Summary: {} organized, {} duplicates, {} failed",
+                processedFiles.get("organized").size(), processedFiles.get("duplicates").size(), failedFiles);
+        if (failedFiles > 0) {
+            exitCode = EXIT_SCAN_FAILED;
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private ScanRequestDto toScanRequest(ApplicationArguments args) {
+        for (String name : args.getOptionNames()) {
+            if (!SUPPORTED_OPTIONS.contains(name) && SPRING_OPTION_PREFIXES.stream().noneMatch(name::startsWith)) {
+                throw new IllegalArgumentException("unknown option --" + name);
+            }
+        }
+        if (!args.getNonOptionArgs().isEmpty()) {
+            throw new IllegalArgumentException("unexpected arguments " + args.getNonOptionArgs());
+        }
+
+        String scanDirectory = getOption(args, "scan-directory", null);
+        if (scanDirectory == null) {
+            throw new IllegalArgumentException("--scan-directory is required");
+        }
+        // cron jobs start in an arbitrary working directory; the output goes next to the scan directory
+        Path scanPath = Paths.get(scanDirectory).toAbsolutePath().normalize();
+        if (!Files.isDirectory(scanPath)) {
+            throw new IllegalArgumentException("--scan-directory is not a directory: " + scanPath);
+        }
+        if (scanPath.getParent() == null) {
+            throw new IllegalArgumentException("--scan-directory must not be a filesystem root: " + scanPath);
+        }
+
+        String operation = getOption(args, "operation", String.valueOf(config.getOperation()));
+        FileOperation fileOperation;
+        try {
+            fileOperation = FileOperation.valueOf(operation.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--operation must be COPY or MOVE: " + operation);
+        }
+
+        return new ScanRequestDto(
+                scanPath.toString(),
+                fileOperation,
+                getFlag(args, "image-enabled", config.isImageEnabled()),
+                getFlag(args, "audio-enabled", config.isAudioEnabled()),
+                getFlag(args, "container-enabled", config.isContainerEnabled()),
+                getFlag(args, "archive-enabled", config.isArchiveEnabled()));
+    }
+
+    private static String getOption(ApplicationArguments args, String name, String defaultValue) {
+        List<String> values = args.getOptionValues(name);
+        if (values == null) {
+            return defaultValue;
+        }
+        if (values.size() != 1 || values.get(0).isBlank()) {
+            throw new IllegalArgumentException("--" + name + " needs exactly one value");
+        }
+        return values.get(0);
+    }
+
+    private static boolean getFlag(ApplicationArguments args, String name, boolean defaultValue) {
+        List<String> values = args.getOptionValues(name);
+        if (values == null) {
+            return defaultValue;
+        }
+        // a bare "--image-enabled" switches the type on
+        if (values.isEmpty()) {
+            return true;
+        }
+        if (values.size() == 1 && values.get(0).equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (values.size() == 1 && values.get(0).equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("--" + name + " must be true or false: " + values);
+    }
+}
@@ -1,5 +1,6 @@
 package com.miti.photos_manager_server.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
@@ -10,6 +11,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  */
 
 @Configuration
+@ConditionalOnWebApplication
 public class CorsConfig {
     @Bean
     public WebMvcConfigurer corsConfigurer() {
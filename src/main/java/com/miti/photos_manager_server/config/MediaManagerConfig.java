@@ -52,6 +52,8 @@ public class MediaManagerConfig {
     private List<String> extensionsContainer;
     private List<String> extensionsArchive;
 
+    private Batch batch = new Batch();
+
     private final static String PHOTO_VIDEO_DIRECTORY = "photo_video";
     private final static String AUDIO_DIRECTORY = "audio";
     private final static String CONTAINER_DIRECTORY = "container";
@@ -85,4 +87,13 @@ public class MediaManagerConfig {
         this.archiveDuplicatesPath = format("{0}/{1}/{2}", basePath, ARCHIVE_DIRECTORY, DUPLICATES_DIRECTORY);
         this.archiveEnabled = scanRequestDto.archiveEnabled();
     }
+
+    // media-manager.batch.*, set only by PhotosManagerBatchApplication
+    @Setter
+    @Getter
+    @ToString
+    @NoArgsConstructor
+    public static class Batch {
+        private boolean enabled;
+    }
 }
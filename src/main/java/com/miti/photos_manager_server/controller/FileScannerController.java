@@ -4,6 +4,7 @@ import com.miti.photos_manager_server.model.ScanRequestDto;
 import com.miti.photos_manager_server.service.FileScannerService;
 import com.miti.photos_manager_server.service.ProgressServiceSSE;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -18,6 +19,7 @@ import java.util.Map;
 @RestController
 @RequestMapping("/api/media")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication
 public class FileScannerController {
     private final FileScannerService fileScannerService;
     private final ProgressServiceSSE progressServiceSSE;
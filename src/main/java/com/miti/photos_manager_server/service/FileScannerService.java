@@ -13,5 +13,6 @@ import java.util.Map;
 public interface FileScannerService {
     void scanAndOrganizeFiles(ScanRequestDto requestDto) throws IOException;
     Map<String, List<String>> getProcessedFiles();
+    long getFailedFilesCount();
     void abortScan();
 }
@@ -7,9 +7,11 @@ import com.miti.photos_manager_server.model.ScanRequestDto;
 import com.miti.photos_manager_server.utils.HashUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
@@ -36,7 +38,8 @@ public class FileScannerServiceImpl implements FileScannerService {
 
     private final MediaManagerConfig config;
     private final Map<String, Path> fileHashes = new ConcurrentHashMap<>();
-    private final ProgressServiceSSE progressServiceSSE;
+    private final ObjectProvider<ProgressService> progressService;
+    private final AtomicLong failedFiles = new AtomicLong(0L);
     private volatile boolean isAborted = false;
 
     private static final List<String> organizedPhotoVideoFiles = new ArrayList<>();
@@ -55,6 +58,7 @@ public class FileScannerServiceImpl implements FileScannerService {
         log.info("Starting scan of directory: {}", config.getScanPath());
 
         isAborted = false;
+        failedFiles.set(0L);
         fileHashes.clear();
         organizedPhotoVideoFiles.clear();
         duplicatedPhotoVideoFiles.clear();
@@ -72,7 +76,7 @@ public class FileScannerServiceImpl implements FileScannerService {
         AtomicLong processedFiles = new AtomicLong(0L);
         AtomicLong combinedProgress = new AtomicLong(0L);
 
-        ExecutorService executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() -1);
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
         try {
             Files.walkFileTree(Paths.get(config.getScanPath()),
                     new SimpleFileVisitor<>() {
@@ -83,7 +87,9 @@ public class FileScannerServiceImpl implements FileScannerService {
                                 return FileVisitResult.TERMINATE;
                             }
                             if (Files.isRegularFile(file)) {
-                                scannedFiles.incrementAndGet();
+                                if (scannedFiles.incrementAndGet() == 1 && config.getBatch().isEnabled()) {
+                                    log.info("First file reached after {} ms of JVM uptime", ManagementFactory.getRuntimeMXBean().getUptime());
+                                }
 
                                 getFileType(file).ifPresent(currentPath -> executorService.submit(() -> {
                                     if (isAborted) {
@@ -102,7 +108,7 @@ public class FileScannerServiceImpl implements FileScannerService {
                                     long newProgress = (scannedFiles.get() + processedFiles.get()) * 100 / (2 * totalDirectoriesAndFiles.filesCount);
                                     if (newProgress != combinedProgress.get()) {
                                         combinedProgress.set(newProgress);
-                                        progressServiceSSE.sendProgressUpdate(newProgress);
+                                        progressService.ifAvailable(service -> service.sendProgressUpdate(newProgress));
                                     }
 
                                     log.info("Processed {} in {} ms -> {}%", file.getFileName(), fileDuration, newProgress);
@@ -116,7 +122,7 @@ public class FileScannerServiceImpl implements FileScannerService {
 
         } catch (IOException e) {
             log.error("Error scanning files: ", e);
-            Thread.currentThread().interrupt();
+            throw e;
         } finally {
             try {
                 executorService.shutdown();
@@ -134,8 +140,11 @@ public class FileScannerServiceImpl implements FileScannerService {
         long endTime = System.nanoTime();
         long totalDuration = (endTime - startTime) / 1_000_000; // ms
         combinedProgress.set(100);
-        progressServiceSSE.sendProgressUpdate(combinedProgress.get());
+        progressService.ifAvailable(service -> service.sendProgressUpdate(combinedProgress.get()));
         log.info("Completed processing {} files in {} -> {}%", processedFiles.get(), formatMilliseconds(totalDuration), combinedProgress.get());
+        if (failedFiles.get() > 0) {
+            log.error("{} files could not be processed", failedFiles.get());
+        }
     }
 
     @Override
@@ -154,6 +163,11 @@ public class FileScannerServiceImpl implements FileScannerService {
         return Map.of("organized", organized, "duplicates", duplicated);
     }
 
+    @Override
+    public long getFailedFilesCount() {
+        return failedFiles.get();
+    }
+
     private Optional<MediaCurrentPath> getFileType(Path file) {
         String fileName = file.getFileName().toString().toLowerCase();
 
@@ -188,7 +202,8 @@ public class FileScannerServiceImpl implements FileScannerService {
                 }
             }
         } catch (IOException e) {
-            log.error("ERROR computing hash for file: {}", file, e);
+            failedFiles.incrementAndGet();
+            log.error("ERROR processing file: {}", file, e);
         }
     }
 
@@ -0,0 +1,9 @@
+package com.miti.photos_manager_server.service;
+
+/**
+ * @author Dumitru Săndulache (sandulachedumitru@hotmail.com)
+ */
+
+public interface ProgressService {
+    void sendProgressUpdate(final long progress);
+}
@@ -6,7 +6,6 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
  * @author Dumitru Săndulache (sandulachedumitru@hotmail.com)
  */
 
-public interface ProgressServiceSSE {
+public interface ProgressServiceSSE extends ProgressService {
     SseEmitter addEEmitter();
-    void sendProgressUpdate(final long progress);
 }
@@ -1,5 +1,6 @@
 package com.miti.photos_manager_server.service;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -13,6 +14,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 
 // Server-Sent Events
 @Service
+@ConditionalOnWebApplication
 public class ProgressServiceSseImpl implements ProgressServiceSSE {
     private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
 
@@ -0,0 +1,131 @@
+package com.miti.photos_manager_server;
+
+import com.miti.photos_manager_server.batch.FileScannerBatchRunner;
+import com.miti.photos_manager_server.config.CorsConfig;
+import com.miti.photos_manager_server.config.MediaManagerConfig;
+import com.miti.photos_manager_server.controller.FileScannerController;
+import com.miti.photos_manager_server.service.FileScannerService;
+import com.miti.photos_manager_server.service.ProgressServiceSSE;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhotosManagerBatchApplicationTests {
+
+	@TempDir
+	Path baseDir;
+
+	Path scanDir;
+
+	@BeforeEach
+	void createScanDirectory() throws IOException {
+		scanDir = Files.createDirectory(baseDir.resolve("incoming"));
+		Files.writeString(scanDir.resolve("a.jpg"), "first");
+		Files.writeString(scanDir.resolve("b.jpg"), "second");
+		Files.writeString(scanDir.resolve("copy-of-a.jpg"), "first");
+	}
+
+	@Test
+	void validScanExitsWithZero() {
+		try (ConfigurableApplicationContext context = PhotosManagerBatchApplication.run(
+				"--scan-directory=" + scanDir, "--operation=copy", "--audio-enabled=false")) {
+			Map<String, List<String>> processedFiles = context.getBean(FileScannerService.class).getProcessedFiles();
+			assertThat(processedFiles.get("organized")).hasSize(2);
+			assertThat(processedFiles.get("duplicates")).hasSize(1);
+			assertThat(SpringApplication.exit(context)).isEqualTo(FileScannerBatchRunner.EXIT_OK);
+		}
+		assertThat(scanDir.resolve("a.jpg")).exists();
+	}
+
+	@Test
+	void relativeScanDirectoryOrganizesNextToIt() {
+		Path relativeScanDir = Path.of("").toAbsolutePath().relativize(scanDir);
+		assertThat(relativeScanDir.isAbsolute()).isFalse();
+
+		// the trailing "." would make the raw path's parent the scan directory itself
+		assertThat(exitCode("--scan-directory=" + relativeScanDir + "/.")).isEqualTo(FileScannerBatchRunner.EXIT_OK);
+		assertThat(baseDir.resolve("photo_video/organized")).isDirectory();
+		assertThat(baseDir.resolve("photo_video/duplicates")).isDirectory();
+		assertThat(scanDir.resolve("photo_video")).doesNotExist();
+	}
+
+	@Test
+	void bareFlagIsAccepted() {
+		assertThat(exitCode("--scan-directory=" + scanDir, "--image-enabled")).isEqualTo(FileScannerBatchRunner.EXIT_OK);
+	}
+
+	@Test
+	void failedFilesExitWithOne() throws IOException {
+		// blocks creation of <base>/photo_video/organized
+		Files.writeString(baseDir.resolve("photo_video"), "not a directory");
+		assertThat(exitCode("--scan-directory=" + scanDir)).isEqualTo(FileScannerBatchRunner.EXIT_SCAN_FAILED);
+	}
+
+	@Test
+	void missingScanDirectoryExitsWithTwo() {
+		assertThat(exitCode()).isEqualTo(FileScannerBatchRunner.EXIT_INVALID_ARGUMENTS);
+	}
+
+	@Test
+	void badScanDirectoryExitsWithTwo() {
+		assertThat(exitCode("--scan-directory=" + baseDir.resolve("missing"))).isEqualTo(FileScannerBatchRunner.EXIT_INVALID_ARGUMENTS);
+	}
+
+	@Test
+	void rootScanDirectoryExitsWithTwo() {
+		Path root = scanDir.getRoot();
+		assertThat(exitCode("--scan-directory=" + root)).isEqualTo(FileScannerBatchRunner.EXIT_INVALID_ARGUMENTS);
+	}
+
+	@Test
+	void badOperationExitsWithTwo() {
+		assertThat(exitCode("--scan-directory=" + scanDir, "--operation=rename")).isEqualTo(FileScannerBatchRunner.EXIT_INVALID_ARGUMENTS);
+	}
+
+	@Test
+	void badFlagValueExitsWithTwo() {
+		assertThat(exitCode("--scan-directory=" + scanDir, "--image-enabled=yes")).isEqualTo(FileScannerBatchRunner.EXIT_INVALID_ARGUMENTS);
+	}
+
+	@Test
+	void unknownOptionExitsWithTwo() {
+		assertThat(exitCode("--scan-directory=" + scanDir, "--operaton=MOVE")).isEqualTo(FileScannerBatchRunner.EXIT_INVALID_ARGUMENTS);
+	}
+
+	@Test
+	void webBeansAreAbsentInBatchMode() {
+		try (ConfigurableApplicationContext context = PhotosManagerBatchApplication.run("--scan-directory=" + scanDir)) {
+			assertThat(context.getBeanNamesForType(FileScannerController.class)).isEmpty();
+			assertThat(context.getBeanNamesForType(CorsConfig.class)).isEmpty();
+			assertThat(context.getBeanNamesForType(ProgressServiceSSE.class)).isEmpty();
+			assertThat(context.getBean(MediaManagerConfig.class).getBatch().isEnabled()).isTrue();
+		}
+	}
+
+	@Test
+	void runnerIsAbsentWithoutBatchSwitch() {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PhotosManagerServerApplication.class)
+				.web(WebApplicationType.NONE)
+				.run()) {
+			assertThat(context.getBeanNamesForType(FileScannerBatchRunner.class)).isEmpty();
+			assertThat(context.getBean(MediaManagerConfig.class).getBatch().isEnabled()).isFalse();
+		}
+	}
+
+	private static int exitCode(String... args) {
+		return SpringApplication.exit(PhotosManagerBatchApplication.run(args));
+	}
+
+}